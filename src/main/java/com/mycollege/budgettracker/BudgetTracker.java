@@ -3,8 +3,10 @@ package com.mycollege.budgettracker;
 import com.mycollege.budgettracker.controller.BudgetManager;
 import com.mycollege.budgettracker.model.Transaction;
 import com.mycollege.budgettracker.model.Budget;
+import com.mycollege.budgettracker.model.SpendingDistribution;
 import java.time.LocalDate;
 import java.time.Month;
+import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.List;
@@ -59,6 +61,9 @@ public class BudgetTracker {
                     checkBudgetStatus();
                     break;
                 case 8:
+                    viewSpendingStatistics();
+                    break;
+                case 9:
                     running = false;
                     break;
                 default:
@@ -84,7 +89,8 @@ public class BudgetTracker {
         System.out.println("5. Set budget limit for category");
         System.out.println("6. View budget");
         System.out.println("7. Check budget status");
-        System.out.println("8. Exit");
+        System.out.println("8. View spending statistics");
+        System.out.println("9. Exit");
         System.out.print("Enter your choice: ");
     }
     
@@ -116,7 +122,9 @@ public class BudgetTracker {
             System.out.print("Enter amount: $");
             try {
                 amount = Double.parseDouble(scanner.nextLine());
-                if (amount <= 0) {
+                if (!Double.isFinite(amount)) {
+                    System.out.println("Invalid amount. Please enter a valid number.");
+                } else if (amount <= 0) {
                     System.out.println("Amount must be positive. Please try again.");
                 } else {
                     validAmount = true;
@@ -290,4 +298,69 @@ public class BudgetTracker {
             System.out.printf("%-20s| $%.2f\n", entry.getKey(), entry.getValue());
         }
     }
+    
+    /**
+     * Display median and p95 expense per category, overall and for a chosen
+     * month, and the top spending categories and descriptions.
+     */
+    private static void viewSpendingStatistics() {
+        System.out.println("\n=== Spending Statistics ===");
+        
+        Map<String, SpendingDistribution> distributions = budgetManager.getSpendingDistributionsByCategory();
+        if (distributions.isEmpty()) {
+            System.out.println("No expenses found.");
+            return;
+        }
+        
+        printDistributions(distributions);
+        
+        System.out.print("\nEnter month (yyyy-MM) for monthly statistics or leave blank to skip: ");
+        String monthInput = scanner.nextLine();
+        if (!monthInput.isEmpty()) {
+            try {
+                YearMonth yearMonth = YearMonth.parse(monthInput);
+                Map<String, SpendingDistribution> monthly = budgetManager
+                        .getMonthlySpendingDistributionsByCategory(yearMonth.getYear(), yearMonth.getMonth());
+                
+                System.out.println("\nStatistics for " + yearMonth + ":");
+                if (monthly.isEmpty()) {
+                    System.out.println("No expenses found for this month.");
+                } else {
+                    printDistributions(monthly);
+                }
+            } catch (DateTimeParseException e) {
+                System.out.println("Invalid month format. Please use yyyy-MM format.");
+            }
+        }
+        
+        System.out.println("\nTop spending categories:");
+        int rank = 1;
+        for (Map.Entry<String, Double> entry : budgetManager.getTopSpendingCategories(5).entrySet()) {
+            System.out.printf("%d. %-17s| $%.2f\n", rank, entry.getKey(), entry.getValue());
+            rank++;
+        }
+        
+        System.out.println("\nTop spending descriptions:");
+        rank = 1;
+        for (Map.Entry<String, Double> entry : budgetManager.getTopSpendingDescriptions(5).entrySet()) {
+            System.out.printf("%d. %-17s| $%.2f\n", rank, entry.getKey(), entry.getValue());
+            rank++;
+        }
+    }
+    
+    /**
+     * Print count, median and p95 for each category.
+     * 
+     * @param distributions Map of categories and their expense distributions
+     */
+    private static void printDistributions(Map<String, SpendingDistribution> distributions) {
+        System.out.println("Category            | Count | Median      | P95");
+        System.out.println("------------------------------------------------------");
+        
+        for (Map.Entry<String, SpendingDistribution> entry : distributions.entrySet()) {
+            SpendingDistribution distribution = entry.getValue();
+            System.out.printf("%-20s| %-6d| $%-11.2f| $%.2f\n", entry.getKey(), distribution.getCount(),
+                    distribution.getMedian(), distribution.getQuantile(0.95));
+        }
+    }
 }
\ No newline at end of file
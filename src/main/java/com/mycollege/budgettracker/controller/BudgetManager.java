@@ -1,9 +1,12 @@
 package com.mycollege.budgettracker.controller;
 
 import com.mycollege.budgettracker.model.Budget;
+import com.mycollege.budgettracker.model.SpendingDistribution;
+import com.mycollege.budgettracker.model.SpendingStatistics;
 import com.mycollege.budgettracker.model.Transaction;
 import java.time.LocalDate;
 import java.time.Month;
+import java.time.YearMonth;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -16,6 +19,9 @@ import java.util.stream.Collectors;
 public class BudgetManager {
     private List<Transaction> transactions;
     private Budget budget;
+    private SpendingStatistics spendingStatistics;
+    private boolean statisticsStale;
+    private Runnable statisticsInvalidator;
     
     /**
      * Constructor for BudgetManager.
@@ -23,15 +29,24 @@ public class BudgetManager {
     public BudgetManager() {
         this.transactions = new ArrayList<>();
         this.budget = new Budget("Default Budget");
+        this.spendingStatistics = new SpendingStatistics();
+        this.statisticsStale = false;
+        this.statisticsInvalidator = () -> statisticsStale = true;
     }
     
     /**
-     * Add a new transaction.
+     * Add a new transaction. Its expense is added to the spending statistics
+     * straight away; later changes made through its setters mark the
+     * statistics for rebuilding.
      * 
      * @param transaction The transaction to add
      */
     public void addTransaction(Transaction transaction) {
         transactions.add(transaction);
+        transaction.addChangeListener(statisticsInvalidator);
+        if (!statisticsStale) {
+            spendingStatistics.record(transaction);
+        }
     }
     
     /**
@@ -43,6 +58,7 @@ public class BudgetManager {
     public boolean removeTransaction(int index) {
         if (index >= 0 && index < transactions.size()) {
             transactions.remove(index);
+            statisticsStale = true;
             return true;
         }
         return false;
@@ -181,6 +197,110 @@ public class BudgetManager {
         return exceededCategories;
     }
     
+    /**
+     * Check whether a category has any expenses recorded. Useful to tell an
+     * unknown category apart from one whose statistics are really 0.0.
+     * 
+     * @param category The category name
+     * @return true if the category has at least one expense
+     */
+    public boolean hasCategoryExpenses(String category) {
+        return getSpendingStatistics().hasCategory(category);
+    }
+    
+    /**
+     * Get the expense amount at a quantile for a category. Categories are
+     * matched exactly, the same as {@link #calculateExpensesByCategory()}.
+     * 
+     * @param category The category name
+     * @param quantile Quantile between 0.0 and 1.0, e.g. 0.5 for the median or 0.95 for p95
+     * @return The amount at the quantile or 0.0 if the category has no expenses
+     */
+    public double getCategorySpendingQuantile(String category, double quantile) {
+        return getSpendingStatistics().getCategoryQuantile(category, quantile);
+    }
+    
+    /**
+     * Get the expense amount at a quantile for a category in a given month.
+     * Categories are matched exactly, the same as {@link #calculateExpensesByCategory()}.
+     * 
+     * @param category The category name
+     * @param year The year
+     * @param month The month
+     * @param quantile Quantile between 0.0 and 1.0, e.g. 0.5 for the median or 0.95 for p95
+     * @return The amount at the quantile or 0.0 if the category has no expenses that month
+     */
+    public double getMonthlyCategorySpendingQuantile(String category, int year, Month month, double quantile) {
+        return getSpendingStatistics().getMonthlyCategoryQuantile(category, YearMonth.of(year, month), quantile);
+    }
+    
+    /**
+     * Get the expense distribution of every category.
+     * 
+     * @return Map of categories and copies of their expense distributions
+     */
+    public Map<String, SpendingDistribution> getSpendingDistributionsByCategory() {
+        return getSpendingStatistics().getDistributionsByCategory();
+    }
+    
+    /**
+     * Get the expense distribution of every category in a given month.
+     * 
+     * @param year The year
+     * @param month The month
+     * @return Map of categories and copies of their expense distributions that month
+     */
+    public Map<String, SpendingDistribution> getMonthlySpendingDistributionsByCategory(int year, Month month) {
+        return getSpendingStatistics().getMonthlyDistributionsByCategory(YearMonth.of(year, month));
+    }
+    
+    /**
+     * Get the categories with the highest total expenses.
+     * 
+     * @param limit Maximum number of categories to return
+     * @return Map of categories and their total expenses, highest first
+     */
+    public Map<String, Double> getTopSpendingCategories(int limit) {
+        return getSpendingStatistics().getTopCategories(limit);
+    }
+    
+    /**
+     * Get the transaction descriptions with the highest total expenses.
+     * 
+     * @param limit Maximum number of descriptions to return
+     * @return Map of descriptions and their total expenses, highest first
+     */
+    public Map<String, Double> getTopSpendingDescriptions(int limit) {
+        return getSpendingStatistics().getTopDescriptions(limit);
+    }
+    
+    /**
+     * Get a copy of the spending statistics, e.g. to serialize them or merge
+     * them with the statistics of other accounts.
+     * 
+     * @return A copy of the spending statistics
+     */
+    public SpendingStatistics copySpendingStatistics() {
+        return new SpendingStatistics(getSpendingStatistics());
+    }
+    
+    /**
+     * Get the spending statistics, rebuilding them from the transactions if a
+     * transaction was removed or modified since they were last built.
+     * 
+     * @return The up-to-date spending statistics
+     */
+    private SpendingStatistics getSpendingStatistics() {
+        if (statisticsStale) {
+            spendingStatistics = new SpendingStatistics();
+            for (Transaction t : transactions) {
+                spendingStatistics.record(t);
+            }
+            statisticsStale = false;
+        }
+        return spendingStatistics;
+    }
+    
     /**
      * Get the budget.
      * 
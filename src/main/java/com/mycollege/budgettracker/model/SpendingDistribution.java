@@ -0,0 +1,148 @@
+package com.mycollege.budgettracker.model;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+
+/**
+ * Keeps transaction amounts in sorted order so that totals and quantiles
+ * (median, p95, ...) can be answered without re-sorting on every request.
+ * Distributions are serializable so they can be sent from one account to
+ * another and combined there with {@link #merge(SpendingDistribution)}.
+ */
+public class SpendingDistribution implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private ArrayList<Double> sortedAmounts;
+    private double total;
+
+    /**
+     * Constructor for SpendingDistribution.
+     */
+    public SpendingDistribution() {
+        this.sortedAmounts = new ArrayList<>();
+        this.total = 0.0;
+    }
+
+    /**
+     * Copy constructor for SpendingDistribution.
+     *
+     * @param other The distribution to copy
+     */
+    public SpendingDistribution(SpendingDistribution other) {
+        this.sortedAmounts = new ArrayList<>(other.sortedAmounts);
+        this.total = other.total;
+    }
+
+    /**
+     * Record an amount.
+     *
+     * @param amount The amount to record, must be finite
+     */
+    public void add(double amount) {
+        if (!Double.isFinite(amount)) {
+            throw new IllegalArgumentException("Amount must be finite: " + amount);
+        }
+        int index = Collections.binarySearch(sortedAmounts, amount);
+        if (index < 0) {
+            index = -index - 1;
+        }
+        sortedAmounts.add(index, amount);
+        total += amount;
+    }
+
+    /**
+     * Remove a previously recorded amount.
+     *
+     * @param amount The amount to remove
+     * @return true if the amount was found and removed, false otherwise
+     */
+    public boolean remove(double amount) {
+        int index = Collections.binarySearch(sortedAmounts, amount);
+        if (index < 0) {
+            return false;
+        }
+        sortedAmounts.remove(index);
+        total = 0.0;
+        for (double remaining : sortedAmounts) {
+            total += remaining;
+        }
+        return true;
+    }
+
+    /**
+     * Add all amounts from another distribution to this one, e.g. to combine
+     * the statistics of several accounts.
+     *
+     * @param other The distribution to merge in
+     */
+    public void merge(SpendingDistribution other) {
+        ArrayList<Double> merged = new ArrayList<>(sortedAmounts.size() + other.sortedAmounts.size());
+        int i = 0;
+        int j = 0;
+        while (i < sortedAmounts.size() && j < other.sortedAmounts.size()) {
+            if (Double.compare(sortedAmounts.get(i), other.sortedAmounts.get(j)) <= 0) {
+                merged.add(sortedAmounts.get(i++));
+            } else {
+                merged.add(other.sortedAmounts.get(j++));
+            }
+        }
+        merged.addAll(sortedAmounts.subList(i, sortedAmounts.size()));
+        merged.addAll(other.sortedAmounts.subList(j, other.sortedAmounts.size()));
+
+        this.sortedAmounts = merged;
+        this.total += other.total;
+    }
+
+    /**
+     * Get the value at the given quantile, interpolating linearly between
+     * neighbouring amounts. For example 0.5 gives the median and 0.95 the p95.
+     *
+     * @param quantile Quantile between 0.0 and 1.0 (inclusive)
+     * @return The amount at the quantile or 0.0 if no amounts are recorded
+     */
+    public double getQuantile(double quantile) {
+        if (!(quantile >= 0.0 && quantile <= 1.0)) {
+            throw new IllegalArgumentException("Quantile must be between 0.0 and 1.0: " + quantile);
+        }
+        if (sortedAmounts.isEmpty()) {
+            return 0.0;
+        }
+
+        double position = quantile * (sortedAmounts.size() - 1);
+        int lower = (int) Math.floor(position);
+        int upper = (int) Math.ceil(position);
+        double lowerValue = sortedAmounts.get(lower);
+        double upperValue = sortedAmounts.get(upper);
+
+        return lowerValue + (upperValue - lowerValue) * (position - lower);
+    }
+
+    /**
+     * Get the median amount.
+     *
+     * @return The median or 0.0 if no amounts are recorded
+     */
+    public double getMedian() {
+        return getQuantile(0.5);
+    }
+
+    // Getters
+    public int getCount() {
+        return sortedAmounts.size();
+    }
+
+    public double getTotal() {
+        return total;
+    }
+
+    public boolean isEmpty() {
+        return sortedAmounts.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("count=%d, total=$%.2f, median=$%.2f, p95=$%.2f",
+                getCount(), total, getMedian(), getQuantile(0.95));
+    }
+}
@@ -0,0 +1,218 @@
+package com.mycollege.budgettracker.model;
+
+import java.io.Serializable;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Expense statistics for one or more accounts: a distribution of amounts per
+ * category and per category within each month, plus total spending per
+ * description. Categories and descriptions are matched exactly, the same as
+ * {@link Budget} limits. Statistics are serializable and can be combined with
+ * {@link #merge(SpendingStatistics)} to get fleet-wide figures.
+ */
+public class SpendingStatistics implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private HashMap<String, SpendingDistribution> expensesByCategory;
+    private HashMap<String, Double> expenseTotalsByDescription;
+    private HashMap<YearMonth, HashMap<String, SpendingDistribution>> monthlyExpensesByCategory;
+
+    /**
+     * Constructor for SpendingStatistics.
+     */
+    public SpendingStatistics() {
+        this.expensesByCategory = new HashMap<>();
+        this.expenseTotalsByDescription = new HashMap<>();
+        this.monthlyExpensesByCategory = new HashMap<>();
+    }
+
+    /**
+     * Copy constructor for SpendingStatistics.
+     *
+     * @param other The statistics to copy
+     */
+    public SpendingStatistics(SpendingStatistics other) {
+        this();
+        merge(other);
+    }
+
+    /**
+     * Record a transaction. Income, and expenses whose amount is not finite,
+     * are ignored. Expenses without a date are left out of the monthly figures.
+     *
+     * @param transaction The transaction to record
+     */
+    public void record(Transaction transaction) {
+        if (transaction.getType() != Transaction.TransactionType.EXPENSE
+                || !Double.isFinite(transaction.getAmount())) {
+            return;
+        }
+
+        double amount = transaction.getAmount();
+        expensesByCategory.computeIfAbsent(transaction.getCategory(), k -> new SpendingDistribution()).add(amount);
+        expenseTotalsByDescription.merge(transaction.getDescription(), amount, Double::sum);
+
+        if (transaction.getDate() != null) {
+            monthlyExpensesByCategory.computeIfAbsent(YearMonth.from(transaction.getDate()), k -> new HashMap<>())
+                    .computeIfAbsent(transaction.getCategory(), k -> new SpendingDistribution()).add(amount);
+        }
+    }
+
+    /**
+     * Add all statistics from another set to this one, e.g. to combine the
+     * statistics of several accounts.
+     *
+     * @param other The statistics to merge in
+     */
+    public void merge(SpendingStatistics other) {
+        mergeDistributions(expensesByCategory, other.expensesByCategory);
+        for (Map.Entry<String, Double> entry : other.expenseTotalsByDescription.entrySet()) {
+            expenseTotalsByDescription.merge(entry.getKey(), entry.getValue(), Double::sum);
+        }
+        for (Map.Entry<YearMonth, HashMap<String, SpendingDistribution>> entry
+                : other.monthlyExpensesByCategory.entrySet()) {
+            mergeDistributions(monthlyExpensesByCategory.computeIfAbsent(entry.getKey(), k -> new HashMap<>()),
+                    entry.getValue());
+        }
+    }
+
+    /**
+     * Check whether a category has any expenses recorded.
+     *
+     * @param category The category name
+     * @return true if the category has at least one expense
+     */
+    public boolean hasCategory(String category) {
+        return expensesByCategory.containsKey(category);
+    }
+
+    /**
+     * Get the expense amount at a quantile for a category.
+     *
+     * @param category The category name
+     * @param quantile Quantile between 0.0 and 1.0
+     * @return The amount at the quantile or 0.0 if the category has no expenses
+     */
+    public double getCategoryQuantile(String category, double quantile) {
+        SpendingDistribution distribution = expensesByCategory.get(category);
+        if (distribution == null) {
+            return 0.0;
+        }
+        return distribution.getQuantile(quantile);
+    }
+
+    /**
+     * Get the expense amount at a quantile for a category in a given month.
+     *
+     * @param category The category name
+     * @param yearMonth The month
+     * @param quantile Quantile between 0.0 and 1.0
+     * @return The amount at the quantile or 0.0 if the category has no expenses that month
+     */
+    public double getMonthlyCategoryQuantile(String category, YearMonth yearMonth, double quantile) {
+        Map<String, SpendingDistribution> monthly = monthlyExpensesByCategory.get(yearMonth);
+        if (monthly == null) {
+            return 0.0;
+        }
+        SpendingDistribution distribution = monthly.get(category);
+        if (distribution == null) {
+            return 0.0;
+        }
+        return distribution.getQuantile(quantile);
+    }
+
+    /**
+     * Get the expense distribution of every category.
+     *
+     * @return Map of categories and copies of their expense distributions
+     */
+    public Map<String, SpendingDistribution> getDistributionsByCategory() {
+        return copyDistributions(expensesByCategory);
+    }
+
+    /**
+     * Get the expense distribution of every category in a given month.
+     *
+     * @param yearMonth The month
+     * @return Map of categories and copies of their expense distributions that month
+     */
+    public Map<String, SpendingDistribution> getMonthlyDistributionsByCategory(YearMonth yearMonth) {
+        return copyDistributions(monthlyExpensesByCategory.getOrDefault(yearMonth, new HashMap<>()));
+    }
+
+    /**
+     * Get the categories with the highest total expenses.
+     *
+     * @param limit Maximum number of categories to return
+     * @return Map of categories and their total expenses, highest first
+     */
+    public Map<String, Double> getTopCategories(int limit) {
+        Map<String, Double> totals = new HashMap<>();
+        for (Map.Entry<String, SpendingDistribution> entry : expensesByCategory.entrySet()) {
+            totals.put(entry.getKey(), entry.getValue().getTotal());
+        }
+        return topByTotal(totals, limit);
+    }
+
+    /**
+     * Get the transaction descriptions with the highest total expenses.
+     *
+     * @param limit Maximum number of descriptions to return
+     * @return Map of descriptions and their total expenses, highest first
+     */
+    public Map<String, Double> getTopDescriptions(int limit) {
+        return topByTotal(expenseTotalsByDescription, limit);
+    }
+
+    /**
+     * Merge each keyed distribution of the source into the target.
+     *
+     * @param target The distributions to merge into
+     * @param source The distributions to merge from
+     */
+    private static void mergeDistributions(Map<String, SpendingDistribution> target,
+            Map<String, SpendingDistribution> source) {
+        for (Map.Entry<String, SpendingDistribution> entry : source.entrySet()) {
+            target.computeIfAbsent(entry.getKey(), k -> new SpendingDistribution()).merge(entry.getValue());
+        }
+    }
+
+    /**
+     * Copy keyed distributions so callers cannot modify the recorded statistics.
+     *
+     * @param source The distributions to copy
+     * @return Map of keys and copied distributions
+     */
+    private static Map<String, SpendingDistribution> copyDistributions(Map<String, SpendingDistribution> source) {
+        Map<String, SpendingDistribution> copies = new HashMap<>();
+        for (Map.Entry<String, SpendingDistribution> entry : source.entrySet()) {
+            copies.put(entry.getKey(), new SpendingDistribution(entry.getValue()));
+        }
+        return copies;
+    }
+
+    /**
+     * Rank keyed totals, highest first.
+     *
+     * @param totals The totals to rank
+     * @param limit Maximum number of entries to return
+     * @return Map of keys and totals, highest first
+     */
+    private static Map<String, Double> topByTotal(Map<String, Double> totals, int limit) {
+        List<Map.Entry<String, Double>> sorted = totals.entrySet().stream()
+                .sorted((a, b) -> Double.compare(b.getValue(), a.getValue()))
+                .limit(Math.max(limit, 0))
+                .collect(Collectors.toList());
+
+        Map<String, Double> top = new LinkedHashMap<>();
+        for (Map.Entry<String, Double> entry : sorted) {
+            top.put(entry.getKey(), entry.getValue());
+        }
+        return top;
+    }
+}
@@ -2,6 +2,8 @@ package com.mycollege.budgettracker.model;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Represents a financial transaction in the budget tracker.
@@ -12,6 +14,7 @@ public class Transaction {
     private LocalDate date;
     private String category;
     private TransactionType type;
+    private List<Runnable> changeListeners;
     
     /**
      * Enum representing the type of transaction.
@@ -36,6 +39,28 @@ public class Transaction {
         this.date = date;
         this.category = category;
         this.type = type;
+        this.changeListeners = new ArrayList<>();
+    }
+    
+    /**
+     * Register a listener that is run whenever this transaction is modified
+     * through one of its setters.
+     * 
+     * @param listener The listener to run on modification
+     */
+    public void addChangeListener(Runnable listener) {
+        if (!changeListeners.contains(listener)) {
+            changeListeners.add(listener);
+        }
+    }
+    
+    /**
+     * Notify all registered listeners that this transaction was modified.
+     */
+    private void fireChanged() {
+        for (Runnable listener : changeListeners) {
+            listener.run();
+        }
     }
     
     // Getters and setters
@@ -45,6 +70,7 @@ public class Transaction {
 
     public void setDescription(String description) {
         this.description = description;
+        fireChanged();
     }
 
     public double getAmount() {
@@ -53,6 +79,7 @@ public class Transaction {
 
     public void setAmount(double amount) {
         this.amount = amount;
+        fireChanged();
     }
 
     public LocalDate getDate() {
@@ -61,6 +88,7 @@ public class Transaction {
 
     public void setDate(LocalDate date) {
         this.date = date;
+        fireChanged();
     }
 
     public String getCategory() {
@@ -69,6 +97,7 @@ public class Transaction {
 
     public void setCategory(String category) {
         this.category = category;
+        fireChanged();
     }
 
     public TransactionType getType() {
@@ -77,6 +106,7 @@ public class Transaction {
 
     public void setType(TransactionType type) {
         this.type = type;
+        fireChanged();
     }
     
     @Override